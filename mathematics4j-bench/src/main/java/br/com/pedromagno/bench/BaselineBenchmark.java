@@ -0,0 +1,45 @@
+package br.com.pedromagno.bench;
+
+import br.com.pedromagno.bench.BaselineOperations.BaselineInterval;
+import br.com.pedromagno.bench.BaselineOperations.BaselineLinearFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class BaselineBenchmark {
+    private BaselineInterval left = BaselineInterval.closed(0.0, 2.0);
+    private BaselineInterval right = BaselineInterval.closed(1.0, 3.0);
+    private double firstValue = 0.5;
+    private double secondValue = 0.6;
+    private double tolerance = 1e-12;
+    private BaselineLinearFunction function = new BaselineLinearFunction(2.0, 3.0);
+
+    @Benchmark
+    public BaselineInterval intersect() {
+        return left.intersect(right);
+    }
+
+    @Benchmark
+    public boolean nearlyEqual() {
+        return BaselineOperations.nearlyEqual(firstValue, secondValue, tolerance);
+    }
+
+    @Benchmark
+    public double root() {
+        return function.root();
+    }
+}
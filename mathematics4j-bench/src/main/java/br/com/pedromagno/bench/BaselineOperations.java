@@ -0,0 +1,122 @@
+package br.com.pedromagno.bench;
+
+import br.com.pedromagno.numeric.Interval.IntervalType;
+
+/**
+ * Copies of {@code Interval.intersect}, {@code Epsilon.nearlyEqual} and {@code LinearFunction.root}
+ * as they were before instrumentation was added, used as the reference for {@link BaselineBenchmark}.
+ */
+final class BaselineOperations {
+
+    static final class BaselineInterval {
+        static final BaselineInterval EMPTY = new BaselineInterval(
+                Double.NaN, Double.NaN, IntervalType.OPEN, IntervalType.OPEN, true);
+
+        final double lower;
+        final double upper;
+        final IntervalType lowerType;
+        final IntervalType upperType;
+        final boolean empty;
+
+        BaselineInterval(double lower, double upper,
+                         IntervalType lowerType, IntervalType upperType,
+                         boolean empty) {
+            this.lower = lower;
+            this.upper = upper;
+            this.lowerType = lowerType;
+            this.upperType = upperType;
+            this.empty = empty;
+        }
+
+        static BaselineInterval closed(double lower, double upper) {
+            return new BaselineInterval(lower, upper, IntervalType.CLOSED, IntervalType.CLOSED, false);
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        BaselineInterval intersect(BaselineInterval other) {
+            if (this.isEmpty() || other.isEmpty()) {
+                return EMPTY;
+            }
+
+            double newLower;
+            IntervalType newLowerType;
+            if (this.lower > other.lower) {
+                newLower = this.lower;
+                newLowerType = this.lowerType;
+            } else if (this.lower < other.lower) {
+                newLower = other.lower;
+                newLowerType = other.lowerType;
+            } else {
+                newLower = this.lower;
+                newLowerType = (this.lowerType == IntervalType.CLOSED && other.lowerType == IntervalType.CLOSED) ? IntervalType.CLOSED : IntervalType.OPEN;
+            }
+
+            double newUpper;
+            IntervalType newUpperType;
+
+            if (this.upper < other.upper) {
+                newUpper = this.upper;
+                newUpperType = this.upperType;
+            } else if (this.upper > other.upper) {
+                newUpper = other.upper;
+                newUpperType = other.upperType;
+            } else {
+                newUpper = this.upper;
+                newUpperType = (this.upperType == IntervalType.CLOSED && other.upperType == IntervalType.CLOSED) ? IntervalType.CLOSED : IntervalType.OPEN;
+            }
+
+            if(newLower > newUpper) return EMPTY;
+
+            if(newLower == newUpper){
+                if(newLowerType == IntervalType.CLOSED && newUpperType == IntervalType.CLOSED){
+                    return new BaselineInterval(newLower, newUpper, IntervalType.CLOSED, IntervalType.CLOSED, false);
+                }
+                return EMPTY;
+            }
+            return new BaselineInterval(newLower, newUpper, newLowerType, newUpperType, false);
+        }
+    }
+
+    static final class BaselineLinearFunction {
+        final double angularCoefficient;
+        final double linearCoefficient;
+
+        BaselineLinearFunction(double angularCoefficient, double linearCoefficient) {
+            this.angularCoefficient = angularCoefficient;
+            this.linearCoefficient = linearCoefficient;
+        }
+
+        double root(){
+            if(angularCoefficient == 0){
+                return linearCoefficient;
+            }
+            return -linearCoefficient / angularCoefficient;
+        }
+    }
+
+    private BaselineOperations() {
+    }
+
+    static boolean nearlyEqual(double firstValue, double secondValue, double tolerance){
+        if(firstValue == secondValue){
+            return true;
+        }
+
+        if(Double.isNaN(firstValue) || Double.isNaN(secondValue)){
+            return false;
+        }
+
+        if(Double.isInfinite(firstValue) || Double.isInfinite(secondValue)){
+            return false;
+        }
+
+        final double diff = Math.abs(firstValue - secondValue);
+        final double maxAbs = Math.max(Math.abs(firstValue), Math.abs(secondValue));
+
+        final double scaledTolerance = Math.max(tolerance, tolerance * maxAbs);
+        return diff <= scaledTolerance;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.pedromagno.bench;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(3)
+public class InstrumentationDisabledBenchmark extends InstrumentedBenchmark {
+}
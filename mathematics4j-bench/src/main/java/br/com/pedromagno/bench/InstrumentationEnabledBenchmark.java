@@ -0,0 +1,7 @@
+package br.com.pedromagno.bench;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(value = 3, jvmArgsAppend = "-Dmathematics4j.instrumentation=true")
+public class InstrumentationEnabledBenchmark extends InstrumentedBenchmark {
+}
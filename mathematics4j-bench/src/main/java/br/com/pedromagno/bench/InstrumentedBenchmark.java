@@ -0,0 +1,48 @@
+package br.com.pedromagno.bench;
+
+import br.com.pedromagno.algebra.LinearFunction;
+import br.com.pedromagno.numeric.Epsilon;
+import br.com.pedromagno.numeric.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Same inputs as {@link BaselineBenchmark}, run against the instrumented library. The subclasses
+ * only differ in whether the forked JVM sets {@code mathematics4j.instrumentation}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public abstract class InstrumentedBenchmark {
+    private Interval left = Interval.closed(0.0, 2.0);
+    private Interval right = Interval.closed(1.0, 3.0);
+    private double firstValue = 0.5;
+    private double secondValue = 0.6;
+    private double tolerance = 1e-12;
+    private LinearFunction function = LinearFunction.of(2.0, 3.0);
+
+    @Benchmark
+    public Interval intersect() {
+        return left.intersect(right);
+    }
+
+    @Benchmark
+    public boolean nearlyEqual() {
+        return Epsilon.nearlyEqual(firstValue, secondValue, tolerance);
+    }
+
+    @Benchmark
+    public double root() {
+        return function.root();
+    }
+}
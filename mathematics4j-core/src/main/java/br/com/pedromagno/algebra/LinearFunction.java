@@ -1,5 +1,8 @@
 package br.com.pedromagno.algebra;
 
+import br.com.pedromagno.instrumentation.Instrumentation;
+import br.com.pedromagno.instrumentation.Probe;
+
 import java.util.Objects;
 
 public class LinearFunction {
@@ -37,8 +40,10 @@ public class LinearFunction {
 
     public double root(){
         if(angularCoefficient == 0){
+            if(Instrumentation.ENABLED) Instrumentation.record(Probe.LINEAR_FUNCTION_ROOT_CONSTANT);
             return linearCoefficient;
         }
+        if(Instrumentation.ENABLED) Instrumentation.record(Probe.LINEAR_FUNCTION_ROOT_REGULAR);
         return -linearCoefficient / angularCoefficient;
     }
 
@@ -0,0 +1,93 @@
+package br.com.pedromagno.instrumentation;
+
+import jdk.jfr.FlightRecorder;
+
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters for the outcomes of core numeric operations.
+ * <p>
+ * Enabled with {@code -Dmathematics4j.instrumentation=true}. Call sites guard on
+ * {@link #ENABLED}, a static final constant, so the JIT folds the probes away when it is off.
+ */
+public final class Instrumentation {
+    public static final String PROPERTY = "mathematics4j.instrumentation";
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final Probe[] PROBES = Probe.values();
+    private static final LongAdder[] COUNTERS = new LongAdder[PROBES.length];
+
+    static {
+        for (int i = 0; i < COUNTERS.length; i++) {
+            COUNTERS[i] = new LongAdder();
+        }
+        if (ENABLED) {
+            registerEvents(() -> JfrEvents.register());
+        }
+    }
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Meant to be called only behind an {@link #ENABLED} check at the call site; ignored while
+     * the layer is disabled.
+     */
+    public static void record(Probe probe) {
+        if (!ENABLED) return;
+        increment(probe);
+    }
+
+    static void increment(Probe probe) {
+        COUNTERS[probe.ordinal()].increment();
+    }
+
+    static boolean registerEvents(Runnable registration) {
+        try {
+            registration.run();
+            return true;
+        } catch (LinkageError e) {
+            // jdk.jfr is not part of this runtime; the counters still work without it.
+            return false;
+        }
+    }
+
+    public static long count(Probe probe) {
+        return COUNTERS[probe.ordinal()].sum();
+    }
+
+    /**
+     * Counts are all zero unless the {@value #PROPERTY} system property was set at startup;
+     * {@link MetricsSnapshot#enabled()} tells the two cases apart.
+     */
+    public static MetricsSnapshot snapshot() {
+        EnumMap<Probe, Long> counts = new EnumMap<>(Probe.class);
+        for (Probe probe : PROBES) {
+            counts.put(probe, COUNTERS[probe.ordinal()].sum());
+        }
+        return new MetricsSnapshot(ENABLED, counts);
+    }
+
+    public static void reset() {
+        for (LongAdder counter : COUNTERS) {
+            counter.reset();
+        }
+    }
+
+    private static final class JfrEvents {
+        static void register() {
+            FlightRecorder.addPeriodicEvent(ProbeCountEvent.class, JfrEvents::emit);
+        }
+
+        private static void emit() {
+            for (Probe probe : PROBES) {
+                ProbeCountEvent event = new ProbeCountEvent();
+                event.operation = probe.getOperation();
+                event.outcome = probe.getOutcome();
+                event.count = COUNTERS[probe.ordinal()].sum();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.pedromagno.instrumentation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record MetricsSnapshot(boolean enabled, Map<Probe, Long> counts) {
+
+    public MetricsSnapshot {
+        counts = Collections.unmodifiableMap(new EnumMap<>(counts));
+    }
+
+    public long count(Probe probe) {
+        return counts.getOrDefault(probe, 0L);
+    }
+
+    public long total(String operation) {
+        long total = 0L;
+        for (Map.Entry<Probe, Long> entry : counts.entrySet()) {
+            if (entry.getKey().getOperation().equals(operation)) {
+                total += entry.getValue();
+            }
+        }
+        return total;
+    }
+
+    public Map<String, Long> byOutcome(String operation) {
+        Map<String, Long> outcomes = new LinkedHashMap<>();
+        for (Map.Entry<Probe, Long> entry : counts.entrySet()) {
+            if (entry.getKey().getOperation().equals(operation)) {
+                outcomes.put(entry.getKey().getOutcome(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(outcomes);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.pedromagno.instrumentation;
+
+public enum Probe {
+    INTERVAL_INTERSECT_EMPTY("Interval.intersect", "EMPTY"),
+    INTERVAL_INTERSECT_NON_EMPTY("Interval.intersect", "NON_EMPTY"),
+
+    EPSILON_NEARLY_EQUAL_EXACT("Epsilon.nearlyEqual", "EXACT"),
+    EPSILON_NEARLY_EQUAL_NAN("Epsilon.nearlyEqual", "NAN"),
+    EPSILON_NEARLY_EQUAL_INFINITE("Epsilon.nearlyEqual", "INFINITE"),
+    EPSILON_NEARLY_EQUAL_ABSOLUTE("Epsilon.nearlyEqual", "ABSOLUTE_TOLERANCE"),
+    EPSILON_NEARLY_EQUAL_RELATIVE("Epsilon.nearlyEqual", "RELATIVE_TOLERANCE"),
+
+    LINEAR_FUNCTION_ROOT_CONSTANT("LinearFunction.root", "CONSTANT"),
+    LINEAR_FUNCTION_ROOT_REGULAR("LinearFunction.root", "REGULAR");
+
+    private final String operation;
+    private final String outcome;
+
+    Probe(String operation, String outcome) {
+        this.operation = operation;
+        this.outcome = outcome;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.pedromagno.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name("br.com.pedromagno.ProbeCount")
+@Label("Probe Count")
+@Category({"Mathematics4J", "Instrumentation"})
+@Description("Cumulative number of times a numeric operation produced a given outcome")
+@Period("1 s")
+@StackTrace(false)
+class ProbeCountEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Count")
+    long count;
+}
@@ -1,18 +1,24 @@
 package br.com.pedromagno.numeric;
 
+import br.com.pedromagno.instrumentation.Instrumentation;
+import br.com.pedromagno.instrumentation.Probe;
+
 public class Epsilon {
     public static final double DEFAULT_EPSILON = 1e-12;
 
     public static boolean nearlyEqual(double firstValue, double secondValue, double tolerance){
         if(firstValue == secondValue){
+            if(Instrumentation.ENABLED) Instrumentation.record(Probe.EPSILON_NEARLY_EQUAL_EXACT);
             return true;
         }
 
         if(Double.isNaN(firstValue) || Double.isNaN(secondValue)){
+            if(Instrumentation.ENABLED) Instrumentation.record(Probe.EPSILON_NEARLY_EQUAL_NAN);
             return false;
         }
 
         if(Double.isInfinite(firstValue) || Double.isInfinite(secondValue)){
+            if(Instrumentation.ENABLED) Instrumentation.record(Probe.EPSILON_NEARLY_EQUAL_INFINITE);
             return false;
         }
 
@@ -20,6 +26,9 @@ public class Epsilon {
         final double maxAbs = Math.max(Math.abs(firstValue), Math.abs(secondValue));
 
         final double scaledTolerance = Math.max(tolerance, tolerance * maxAbs);
+        if(Instrumentation.ENABLED){
+            Instrumentation.record(scaledTolerance > tolerance ? Probe.EPSILON_NEARLY_EQUAL_RELATIVE : Probe.EPSILON_NEARLY_EQUAL_ABSOLUTE);
+        }
         return diff <= scaledTolerance;
     }
 
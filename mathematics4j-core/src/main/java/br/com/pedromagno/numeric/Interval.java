@@ -1,5 +1,8 @@
 package br.com.pedromagno.numeric;
 
+import br.com.pedromagno.instrumentation.Instrumentation;
+import br.com.pedromagno.instrumentation.Probe;
+
 import java.util.Objects;
 
 public final class Interval {
@@ -140,6 +143,14 @@ public final class Interval {
     }
 
     public Interval intersect(Interval other) {
+        Interval result = intersection(other);
+        if (Instrumentation.ENABLED) {
+            Instrumentation.record(result.isEmpty() ? Probe.INTERVAL_INTERSECT_EMPTY : Probe.INTERVAL_INTERSECT_NON_EMPTY);
+        }
+        return result;
+    }
+
+    private Interval intersection(Interval other) {
         if (this.isEmpty() || other.isEmpty()) {
             return EMPTY;
         }
@@ -0,0 +1,87 @@
+package br.com.pedromagno.instrumentation;
+
+import br.com.pedromagno.algebra.LinearFunction;
+import br.com.pedromagno.numeric.Epsilon;
+import br.com.pedromagno.numeric.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class InstrumentationTests {
+    @BeforeEach
+    void setUp() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    void increment_countsOnlyTheGivenProbe() {
+        Instrumentation.increment(Probe.INTERVAL_INTERSECT_EMPTY);
+        Instrumentation.increment(Probe.INTERVAL_INTERSECT_EMPTY);
+
+        Assertions.assertEquals(2L, Instrumentation.count(Probe.INTERVAL_INTERSECT_EMPTY));
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.INTERVAL_INTERSECT_NON_EMPTY));
+    }
+
+    @Test
+    void snapshot_isDetachedFromLiveCounters() {
+        Instrumentation.increment(Probe.LINEAR_FUNCTION_ROOT_CONSTANT);
+        MetricsSnapshot snapshot = Instrumentation.snapshot();
+        Instrumentation.increment(Probe.LINEAR_FUNCTION_ROOT_CONSTANT);
+
+        Assertions.assertEquals(1L, snapshot.count(Probe.LINEAR_FUNCTION_ROOT_CONSTANT));
+        Assertions.assertEquals(2L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_CONSTANT));
+    }
+
+    @Test
+    void snapshot_groupsOutcomesByOperation() {
+        Instrumentation.increment(Probe.EPSILON_NEARLY_EQUAL_RELATIVE);
+        Instrumentation.increment(Probe.EPSILON_NEARLY_EQUAL_ABSOLUTE);
+        Instrumentation.increment(Probe.EPSILON_NEARLY_EQUAL_RELATIVE);
+
+        MetricsSnapshot snapshot = Instrumentation.snapshot();
+        Map<String, Long> outcomes = snapshot.byOutcome("Epsilon.nearlyEqual");
+
+        Assertions.assertEquals(3L, snapshot.total("Epsilon.nearlyEqual"));
+        Assertions.assertEquals(2L, outcomes.get("RELATIVE_TOLERANCE"));
+        Assertions.assertEquals(1L, outcomes.get("ABSOLUTE_TOLERANCE"));
+    }
+
+    @Test
+    void disabled_instrumentedOperationsLeaveCountersAtZero() {
+        Assumptions.assumeFalse(Instrumentation.ENABLED);
+
+        Interval.closed(0.0, 1.0).intersect(Interval.closed(2.0, 3.0));
+        Epsilon.nearlyEqual(1e16, 1e16 + 2, 1e-12);
+        Epsilon.nearlyEqual(Double.NaN, 0.0, 1e-12);
+        LinearFunction.of(0.0, 3.0).root();
+        Instrumentation.record(Probe.INTERVAL_INTERSECT_NON_EMPTY);
+
+        MetricsSnapshot snapshot = Instrumentation.snapshot();
+        Assertions.assertFalse(snapshot.enabled());
+        for (Probe probe : Probe.values()) {
+            Assertions.assertEquals(0L, snapshot.count(probe), probe.name());
+        }
+    }
+
+    @Test
+    void registerEvents_missingJfr_fallsBackToCountersOnly() {
+        Assertions.assertFalse(Instrumentation.registerEvents(() -> {
+            throw new NoClassDefFoundError("jdk/jfr/FlightRecorder");
+        }));
+        Assertions.assertTrue(Instrumentation.registerEvents(() -> { }));
+
+        Instrumentation.increment(Probe.LINEAR_FUNCTION_ROOT_REGULAR);
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_REGULAR));
+    }
+
+    @Test
+    void reset_clearsAllCounters() {
+        Instrumentation.increment(Probe.INTERVAL_INTERSECT_NON_EMPTY);
+        Instrumentation.reset();
+
+        Assertions.assertEquals(0L, Instrumentation.snapshot().total("Interval.intersect"));
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.pedromagno.instrumentation;
+
+import br.com.pedromagno.algebra.LinearFunction;
+import br.com.pedromagno.numeric.Epsilon;
+import br.com.pedromagno.numeric.Interval;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedOperationsTests {
+    @BeforeEach
+    void setUp() {
+        Assumptions.assumeTrue(Instrumentation.ENABLED, "run with -Dmathematics4j.instrumentation=true");
+        Instrumentation.reset();
+    }
+
+    @Test
+    void snapshot_isMarkedEnabled() {
+        Assertions.assertTrue(Instrumentation.snapshot().enabled());
+    }
+
+    @Test
+    void intersect_disjoint_recordsEmpty() {
+        Interval.closed(0.0, 1.0).intersect(Interval.closed(2.0, 3.0));
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.INTERVAL_INTERSECT_EMPTY));
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.INTERVAL_INTERSECT_NON_EMPTY));
+    }
+
+    @Test
+    void intersect_overlapping_recordsNonEmpty() {
+        Interval.closed(0.0, 2.0).intersect(Interval.closed(1.0, 3.0));
+
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.INTERVAL_INTERSECT_EMPTY));
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.INTERVAL_INTERSECT_NON_EMPTY));
+    }
+
+    @Test
+    void nearlyEqual_equalValues_recordsExact() {
+        Epsilon.nearlyEqual(1.0, 1.0, 1e-12);
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_EXACT));
+        Assertions.assertEquals(1L, Instrumentation.snapshot().total("Epsilon.nearlyEqual"));
+    }
+
+    @Test
+    void nearlyEqual_nan_recordsNan() {
+        Epsilon.nearlyEqual(Double.NaN, 0.0, 1e-12);
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_NAN));
+        Assertions.assertEquals(1L, Instrumentation.snapshot().total("Epsilon.nearlyEqual"));
+    }
+
+    @Test
+    void nearlyEqual_infinity_recordsInfinite() {
+        Epsilon.nearlyEqual(Double.POSITIVE_INFINITY, 1e308, 1e-12);
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_INFINITE));
+        Assertions.assertEquals(1L, Instrumentation.snapshot().total("Epsilon.nearlyEqual"));
+    }
+
+    @Test
+    void nearlyEqual_largeMagnitudes_recordsRelativeTolerance() {
+        Epsilon.nearlyEqual(1e16, 1e16 + 2, 1e-12);
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_RELATIVE));
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_ABSOLUTE));
+    }
+
+    @Test
+    void nearlyEqual_smallMagnitudes_recordsAbsoluteTolerance() {
+        Epsilon.nearlyEqual(0.5, 0.6, 1e-12);
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_ABSOLUTE));
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.EPSILON_NEARLY_EQUAL_RELATIVE));
+    }
+
+    @Test
+    void root_constantFunction_recordsConstant() {
+        LinearFunction.of(0.0, 3.0).root();
+
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_CONSTANT));
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_REGULAR));
+    }
+
+    @Test
+    void root_regularFunction_recordsRegular() {
+        LinearFunction.of(2.0, 3.0).root();
+
+        Assertions.assertEquals(0L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_CONSTANT));
+        Assertions.assertEquals(1L, Instrumentation.count(Probe.LINEAR_FUNCTION_ROOT_REGULAR));
+    }
+}
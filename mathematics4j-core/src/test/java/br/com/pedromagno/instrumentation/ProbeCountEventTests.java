@@ -0,0 +1,47 @@
+package br.com.pedromagno.instrumentation;
+
+import br.com.pedromagno.algebra.LinearFunction;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ProbeCountEventTests {
+    private static final String EVENT_NAME = "br.com.pedromagno.ProbeCount";
+
+    @BeforeEach
+    void setUp() {
+        Assumptions.assumeTrue(Instrumentation.ENABLED, "run with -Dmathematics4j.instrumentation=true");
+        Instrumentation.reset();
+    }
+
+    @Test
+    void periodicEvent_reportsOperationOutcomeAndCount() throws InterruptedException {
+        CountDownLatch received = new CountDownLatch(1);
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(EVENT_NAME).withPeriod(Duration.ofMillis(100));
+            stream.onEvent(EVENT_NAME, event -> {
+                if ("LinearFunction.root".equals(event.getString("operation"))
+                        && "CONSTANT".equals(event.getString("outcome"))
+                        && event.getLong("count") == 3L) {
+                    received.countDown();
+                }
+            });
+            stream.startAsync();
+
+            LinearFunction constant = LinearFunction.of(0.0, 3.0);
+            constant.root();
+            constant.root();
+            constant.root();
+
+            Assertions.assertTrue(received.await(10, TimeUnit.SECONDS),
+                    "no ProbeCount event for LinearFunction.root/CONSTANT with count 3");
+        }
+    }
+}